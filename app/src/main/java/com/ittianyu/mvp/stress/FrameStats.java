@@ -0,0 +1,212 @@
+package com.ittianyu.mvp.stress;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Debug;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Choreographer;
+import android.view.FrameMetrics;
+import android.view.Window;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Records the frames of a window and the allocations of the process with
+ * {@link Debug#startAllocCounting()} between {@link #start()} and {@link #stop()}.
+ * <p>
+ * On api 24+ the render time of every frame is recorded with {@link FrameMetrics}, and a frame is
+ * janky when it takes longer than a refresh period of the display. On api 16+ only the interval
+ * between {@link Choreographer} frames can be recorded, and a frame is janky when the interval is
+ * longer than 1.5 refresh periods, so vsync jitter isn't counted. Allocations are always counted.
+ */
+@SuppressWarnings("deprecation")
+public class FrameStats {
+
+    private static final float INTERVAL_JANK_PERIODS = 1.5f;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private final Window window;
+    private final boolean renderTime;
+    private float refreshRate = DEFAULT_REFRESH_RATE;
+    private long jankNanos;
+
+    // guarded by this, frames are recorded on a background thread with FrameMetrics
+    private long[] frameNanos = new long[1024];
+    private int frameCount;
+    private boolean running;
+
+    private long lastFrameTimeNanos;
+    private long startNanos;
+    private long durationNanos;
+    private int allocCount;
+    private int allocSize;
+
+    private Object frameCallback;
+    private Object frameMetricsListener;
+    private HandlerThread frameMetricsThread;
+
+    /**
+     * @param window the window whose frames are recorded, its display gives the refresh rate
+     */
+    public FrameStats(Window window) {
+        this.window = window;
+        this.renderTime = Build.VERSION.SDK_INT >= Build.VERSION_CODES.N;
+    }
+
+    public void start() {
+        synchronized (this) {
+            if (running) {
+                return;
+            }
+            running = true;
+            frameCount = 0;
+        }
+        lastFrameTimeNanos = 0;
+
+        float rate = window.getWindowManager().getDefaultDisplay().getRefreshRate();
+        refreshRate = rate > 0 ? rate : DEFAULT_REFRESH_RATE;
+        jankNanos = (long) ((renderTime ? 1f : INTERVAL_JANK_PERIODS) * 1e9 / refreshRate);
+
+        Debug.resetAllocCount();
+        Debug.startAllocCounting();
+        startNanos = System.nanoTime();
+
+        if (renderTime) {
+            addFrameMetricsListener();
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            postFrameCallback();
+        }
+    }
+
+    public void stop() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+
+        durationNanos = System.nanoTime() - startNanos;
+        Debug.stopAllocCounting();
+        allocCount = Debug.getGlobalAllocCount();
+        allocSize = Debug.getGlobalAllocSize();
+
+        if (renderTime) {
+            removeFrameMetricsListener();
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            removeFrameCallback();
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the stats of the last run, one item per line
+     */
+    public String report() {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(frameNanos, frameCount);
+        }
+        Arrays.sort(sorted);
+        int count = sorted.length;
+        long total = 0;
+        int janky = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+            if (nanos > jankNanos) {
+                janky++;
+            }
+        }
+
+        String name = renderTime ? "render time" : "frame interval";
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.US, "duration: %.1f s, refresh rate: %.1f Hz\n",
+                durationNanos / 1e9, refreshRate));
+        if (count > 0) {
+            builder.append(String.format(Locale.US, "frames: %d, janky: %d (%.1f%%)\n",
+                    count, janky, janky * 100f / count));
+            builder.append(String.format(Locale.US, "%s ms avg: %.2f, p50: %.2f, p90: %.2f, p99: %.2f, max: %.2f\n",
+                    name, total / 1e6 / count, percentile(sorted, 50), percentile(sorted, 90),
+                    percentile(sorted, 99), sorted[count - 1] / 1e6));
+        } else {
+            builder.append("frames: not supported\n");
+        }
+        builder.append(String.format(Locale.US, "allocations: %d, %d KB", allocCount, allocSize / 1024));
+        return builder.toString();
+    }
+
+    private static double percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(sorted.length * percent / 100.0) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private synchronized void record(long nanos) {
+        if (!running) {
+            return;
+        }
+        if (frameCount == frameNanos.length) {
+            frameNanos = Arrays.copyOf(frameNanos, frameCount * 2);
+        }
+        frameNanos[frameCount++] = nanos;
+    }
+
+    @TargetApi(Build.VERSION_CODES.N)
+    private void addFrameMetricsListener() {
+        frameMetricsThread = new HandlerThread("FrameStats");
+        frameMetricsThread.start();
+        Window.OnFrameMetricsAvailableListener listener = new Window.OnFrameMetricsAvailableListener() {
+            @Override
+            public void onFrameMetricsAvailable(Window window, FrameMetrics frameMetrics,
+                                                int dropCountSinceLastInvocation) {
+                record(frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION));
+            }
+        };
+        frameMetricsListener = listener;
+        window.addOnFrameMetricsAvailableListener(listener, new Handler(frameMetricsThread.getLooper()));
+    }
+
+    @TargetApi(Build.VERSION_CODES.N)
+    private void removeFrameMetricsListener() {
+        if (null != frameMetricsListener) {
+            window.removeOnFrameMetricsAvailableListener(
+                    (Window.OnFrameMetricsAvailableListener) frameMetricsListener);
+            frameMetricsListener = null;
+        }
+        if (null != frameMetricsThread) {
+            frameMetricsThread.quitSafely();
+            frameMetricsThread = null;
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void postFrameCallback() {
+        if (null == frameCallback) {
+            frameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    if (!isRunning()) {
+                        return;
+                    }
+                    if (0 != lastFrameTimeNanos) {
+                        record(frameTimeNanos - lastFrameTimeNanos);
+                    }
+                    lastFrameTimeNanos = frameTimeNanos;
+                    Choreographer.getInstance().postFrameCallback(this);
+                }
+            };
+        }
+        Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback) frameCallback);
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private void removeFrameCallback() {
+        if (null != frameCallback) {
+            Choreographer.getInstance().removeFrameCallback((Choreographer.FrameCallback) frameCallback);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ittianyu.mvp.stress;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+/**
+ * Cycles a {@link MvpLceeView} through loading, content, error and empty on the main thread,
+ * one state every interval.
+ *
+ * @param <M> The underlying data model that will be displayed with the view
+ */
+public class LceeStressDriver<M> implements Runnable {
+
+    public interface OnFinishedListener {
+        void onFinished();
+    }
+
+    private static final int STATES = 4;
+    private static final Throwable ERROR = new Exception("stress error");
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final MvpLceeView<M> view;
+    private final M model;
+    private final long intervalMs;
+    private final int cycles;
+    private final OnFinishedListener listener;
+
+    private int step;
+    private boolean running;
+
+    /**
+     * @param cycles   the times to show all the states, or <= 0 to run until {@link #stop()}
+     * @param listener called when all the cycles are finished
+     */
+    public LceeStressDriver(@NonNull MvpLceeView<M> view, @NonNull M model, long intervalMs, int cycles,
+                            @Nullable OnFinishedListener listener) {
+        this.view = view;
+        this.model = model;
+        this.intervalMs = intervalMs;
+        this.cycles = cycles;
+        this.listener = listener;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        step = 0;
+        handler.post(this);
+    }
+
+    public void stop() {
+        running = false;
+        handler.removeCallbacks(this);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        if (!running) {
+            return;
+        }
+        if (cycles > 0 && step >= cycles * STATES) {
+            stop();
+            if (null != listener) {
+                listener.onFinished();
+            }
+            return;
+        }
+
+        switch (step % STATES) {
+            case 0:
+                view.showLoading(false);
+                break;
+            case 1:
+                view.setData(model);
+                view.showContent();
+                break;
+            case 2:
+                view.showError(ERROR, false);
+                break;
+            default:
+                view.showEmpty();
+                break;
+        }
+        step++;
+        handler.postDelayed(this, intervalMs);
+    }
+}
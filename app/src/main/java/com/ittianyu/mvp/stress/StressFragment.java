@@ -0,0 +1,126 @@
+package com.ittianyu.mvp.stress;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.ittianyu.mvp.R;
+import com.ittianyu.mvp.lcee.MvpLceeFragment;
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+import java.util.List;
+
+/**
+ * A {@link MvpLceeFragment} with a RecyclerView, cycled through all the LCEE states by
+ * {@link LceeStressDriver} while it is resumed, until its {@link Host} is finished.
+ */
+public class StressFragment
+        extends MvpLceeFragment<RecyclerView, List<String>, MvpLceeView<List<String>>, StressPresenter> {
+
+    /**
+     * Implemented by the activity which hosts the fragments.
+     */
+    public interface Host {
+        /**
+         * @return true if the run is finished, the fragments must not cycle any more
+         */
+        boolean isStressFinished();
+    }
+
+    private static final String ARG_ITEM_COUNT = "itemCount";
+    private static final String ARG_INTERVAL_MS = "intervalMs";
+    private static final String ARG_LCEE_LAYOUT = "lceeLayout";
+
+    private final StressAdapter adapter = new StressAdapter();
+    private LceeStressDriver<List<String>> driver;
+
+    /**
+     * @param lceeLayout true to host the views by a LceeLayout, false by a FrameLayout
+     */
+    public static StressFragment newInstance(int itemCount, long intervalMs, boolean lceeLayout) {
+        Bundle args = new Bundle();
+        args.putInt(ARG_ITEM_COUNT, itemCount);
+        args.putLong(ARG_INTERVAL_MS, intervalMs);
+        args.putBoolean(ARG_LCEE_LAYOUT, lceeLayout);
+        StressFragment fragment = new StressFragment();
+        fragment.setArguments(args);
+        return fragment;
+    }
+
+    @Nullable
+    @Override
+    public View onCreateView(LayoutInflater inflater, @Nullable ViewGroup container, @Nullable Bundle savedInstanceState) {
+        int layoutId = getArguments().getBoolean(ARG_LCEE_LAYOUT, true)
+                ? R.layout.fragment_stress : R.layout.fragment_stress_frame;
+        return inflater.inflate(layoutId, container, false);
+    }
+
+    @Override
+    public void onViewCreated(View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        contentView.setLayoutManager(new LinearLayoutManager(getContext()));
+        contentView.setAdapter(adapter);
+
+        driver = new LceeStressDriver<>(this, presenter.getItems(),
+                getArguments().getLong(ARG_INTERVAL_MS), 0, null);
+    }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        if (!(getActivity() instanceof Host) || !((Host) getActivity()).isStressFinished()) {
+            driver.start();
+        }
+    }
+
+    @Override
+    public void onPause() {
+        super.onPause();
+        stopStress();
+    }
+
+    @Override
+    public void onDestroyView() {
+        driver = null;
+        super.onDestroyView();
+    }
+
+    /**
+     * Stop cycling the states.
+     */
+    public void stopStress() {
+        if (null != driver) {
+            driver.stop();
+        }
+    }
+
+    @Override
+    public StressPresenter createPresenter() {
+        return new StressPresenter(getArguments().getInt(ARG_ITEM_COUNT));
+    }
+
+    @Override
+    protected String getErrorMessage(Throwable e, boolean pullToRefresh) {
+        return e.getMessage();
+    }
+
+    @Override
+    protected void onSetErrorViewText(View errorView, String errorMsg) {
+        ((TextView) errorView).setText(errorMsg);
+    }
+
+    @Override
+    public void setData(List<String> data) {
+        adapter.setItems(data);
+    }
+
+    @Override
+    public void loadData(boolean pullToRefresh) {
+        presenter.loadData(pullToRefresh);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ittianyu.mvp.stress;
+
+import android.os.Bundle;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.View;
+import android.widget.TextView;
+
+import com.ittianyu.mvp.R;
+import com.ittianyu.mvp.lcee.MvpLceeActivity;
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+import java.util.List;
+
+/**
+ * A {@link MvpLceeActivity} with a RecyclerView of many items, cycled through all the LCEE states by
+ * {@link LceeStressDriver}. The frame times and allocations are shown and logged with tag
+ * {@link #TAG} when the run is finished.
+ * <p>
+ * The views are hosted by a {@link com.ittianyu.mvp.lcee.LceeLayout}, or by a FrameLayout with extra
+ * {@link #EXTRA_LCEE_LAYOUT} = false, so both can be compared on the same device.
+ * <p>
+ * The run can be configured with the intent extras, i.e.
+ * <code>adb shell am start -n com.ittianyu.mvp/.stress.StressListActivity --ei cycles 200 --el intervalMs 16 --ez lceeLayout false</code>
+ */
+public class StressListActivity
+        extends MvpLceeActivity<RecyclerView, List<String>, MvpLceeView<List<String>>, StressPresenter>
+        implements LceeStressDriver.OnFinishedListener {
+
+    public static final String TAG = "LceeStress";
+
+    public static final String EXTRA_ITEM_COUNT = "itemCount";
+    public static final String EXTRA_INTERVAL_MS = "intervalMs";
+    public static final String EXTRA_CYCLES = "cycles";
+    public static final String EXTRA_LCEE_LAYOUT = "lceeLayout";
+
+    static final int DEFAULT_ITEM_COUNT = 10000;
+    static final long DEFAULT_INTERVAL_MS = 50;
+    static final int DEFAULT_CYCLES = 100;
+
+    private final StressAdapter adapter = new StressAdapter();
+    private FrameStats frameStats;
+    private LceeStressDriver<List<String>> driver;
+    private TextView statsView;
+    private String variant;
+    private boolean finished;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        boolean lceeLayout = getIntent().getBooleanExtra(EXTRA_LCEE_LAYOUT, true);
+        setContentView(lceeLayout ? R.layout.activity_stress_list : R.layout.activity_stress_list_frame);
+        variant = getVariant(lceeLayout);
+
+        contentView.setLayoutManager(new LinearLayoutManager(this));
+        contentView.setAdapter(adapter);
+        statsView = (TextView) findViewById(R.id.statsView);
+        frameStats = new FrameStats(getWindow());
+
+        driver = new LceeStressDriver<>(this, presenter.getItems(),
+                getIntent().getLongExtra(EXTRA_INTERVAL_MS, DEFAULT_INTERVAL_MS),
+                getIntent().getIntExtra(EXTRA_CYCLES, DEFAULT_CYCLES), this);
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (!finished) {
+            // restart the run, a paused run is not comparable
+            statsView.setText(R.string.stress_running);
+            frameStats.start();
+            driver.start();
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        driver.stop();
+        frameStats.stop();
+    }
+
+    @Override
+    public void onFinished() {
+        finished = true;
+        frameStats.stop();
+        String report = variant + "\n" + frameStats.report();
+        statsView.setText(report);
+        Log.i(TAG, getClass().getSimpleName() + " " + report);
+    }
+
+    /**
+     * @return the name of the views host, which is reported with the stats
+     */
+    static String getVariant(boolean lceeLayout) {
+        return lceeLayout ? "(LceeLayout)" : "(FrameLayout)";
+    }
+
+    @Override
+    public StressPresenter createPresenter() {
+        return new StressPresenter(getIntent().getIntExtra(EXTRA_ITEM_COUNT, DEFAULT_ITEM_COUNT));
+    }
+
+    @Override
+    protected String getErrorMessage(Throwable e, boolean pullToRefresh) {
+        return e.getMessage();
+    }
+
+    @Override
+    protected void onSetErrorViewText(View errorView, String errorMsg) {
+        ((TextView) errorView).setText(errorMsg);
+    }
+
+    @Override
+    public void setData(List<String> data) {
+        adapter.setItems(data);
+    }
+
+    @Override
+    public void loadData(boolean pullToRefresh) {
+        presenter.loadData(pullToRefresh);
+    }
+}
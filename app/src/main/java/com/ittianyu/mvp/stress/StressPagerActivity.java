@@ -0,0 +1,130 @@
+package com.ittianyu.mvp.stress;
+
+import android.os.Bundle;
+import android.os.Handler;
+import android.support.v4.app.Fragment;
+import android.support.v4.app.FragmentStatePagerAdapter;
+import android.support.v4.view.ViewPager;
+import android.support.v7.app.AppCompatActivity;
+import android.util.Log;
+import android.util.SparseArray;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.ittianyu.mvp.R;
+
+/**
+ * A ViewPager of many {@link StressFragment}, which is flipped to the next page every interval until
+ * the last page. Every resumed fragment cycles its LCEE states meanwhile. When the last page is
+ * reached, all the fragments are stopped and the frame times and allocations are shown and logged
+ * with tag {@link StressListActivity#TAG}.
+ * <p>
+ * The run can be configured with the intent extras, i.e.
+ * <code>adb shell am start -n com.ittianyu.mvp/.stress.StressPagerActivity --ei pages 100 --el flipIntervalMs 300 --ez lceeLayout false</code>
+ */
+public class StressPagerActivity extends AppCompatActivity implements Runnable, StressFragment.Host {
+
+    public static final String EXTRA_PAGES = "pages";
+    public static final String EXTRA_FLIP_INTERVAL_MS = "flipIntervalMs";
+    public static final String EXTRA_ITEM_COUNT = StressListActivity.EXTRA_ITEM_COUNT;
+    public static final String EXTRA_INTERVAL_MS = StressListActivity.EXTRA_INTERVAL_MS;
+    public static final String EXTRA_LCEE_LAYOUT = StressListActivity.EXTRA_LCEE_LAYOUT;
+
+    private static final int DEFAULT_PAGES = 50;
+    private static final long DEFAULT_FLIP_INTERVAL_MS = 500;
+    private static final int OFFSCREEN_PAGE_LIMIT = 2;
+
+    private final Handler handler = new Handler();
+    private final SparseArray<StressFragment> liveFragments = new SparseArray<>();
+    private FrameStats frameStats;
+    private ViewPager viewPager;
+    private TextView statsView;
+    private long flipIntervalMs;
+    private String variant;
+    private boolean finished;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        setContentView(R.layout.activity_stress_pager);
+
+        final int pages = getIntent().getIntExtra(EXTRA_PAGES, DEFAULT_PAGES);
+        final int itemCount = getIntent().getIntExtra(EXTRA_ITEM_COUNT, StressListActivity.DEFAULT_ITEM_COUNT);
+        final long intervalMs = getIntent().getLongExtra(EXTRA_INTERVAL_MS, StressListActivity.DEFAULT_INTERVAL_MS);
+        final boolean lceeLayout = getIntent().getBooleanExtra(EXTRA_LCEE_LAYOUT, true);
+        flipIntervalMs = getIntent().getLongExtra(EXTRA_FLIP_INTERVAL_MS, DEFAULT_FLIP_INTERVAL_MS);
+        variant = StressListActivity.getVariant(lceeLayout);
+
+        statsView = (TextView) findViewById(R.id.statsView);
+        frameStats = new FrameStats(getWindow());
+        viewPager = (ViewPager) findViewById(R.id.viewPager);
+        viewPager.setOffscreenPageLimit(OFFSCREEN_PAGE_LIMIT);
+        viewPager.setAdapter(new FragmentStatePagerAdapter(getSupportFragmentManager()) {
+            @Override
+            public Fragment getItem(int position) {
+                return StressFragment.newInstance(itemCount, intervalMs, lceeLayout);
+            }
+
+            @Override
+            public Object instantiateItem(ViewGroup container, int position) {
+                Object fragment = super.instantiateItem(container, position);
+                liveFragments.put(position, (StressFragment) fragment);
+                return fragment;
+            }
+
+            @Override
+            public void destroyItem(ViewGroup container, int position, Object object) {
+                liveFragments.remove(position);
+                super.destroyItem(container, position, object);
+            }
+
+            @Override
+            public int getCount() {
+                return pages;
+            }
+        });
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        if (!finished) {
+            // restart the run, a paused run is not comparable
+            statsView.setText(R.string.stress_running);
+            viewPager.setCurrentItem(0, false);
+            frameStats.start();
+            handler.postDelayed(this, flipIntervalMs);
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        handler.removeCallbacks(this);
+        frameStats.stop();
+    }
+
+    @Override
+    public boolean isStressFinished() {
+        return finished;
+    }
+
+    @Override
+    public void run() {
+        int next = viewPager.getCurrentItem() + 1;
+        if (next < viewPager.getAdapter().getCount()) {
+            viewPager.setCurrentItem(next, true);
+            handler.postDelayed(this, flipIntervalMs);
+            return;
+        }
+
+        finished = true;
+        for (int i = 0; i < liveFragments.size(); i++) {
+            liveFragments.valueAt(i).stopStress();
+        }
+        frameStats.stop();
+        String report = variant + "\n" + frameStats.report();
+        statsView.setText(report);
+        Log.i(StressListActivity.TAG, getClass().getSimpleName() + " " + report);
+    }
+}
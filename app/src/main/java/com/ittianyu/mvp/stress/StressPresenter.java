@@ -0,0 +1,45 @@
+package com.ittianyu.mvp.stress;
+
+import com.hannesdorfmann.mosby.mvp.MvpBasePresenter;
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides a list of generated items. The items are created once, so the stress run only measures
+ * the view.
+ */
+public class StressPresenter extends MvpBasePresenter<MvpLceeView<List<String>>> {
+
+    private final int itemCount;
+    private List<String> items;
+
+    public StressPresenter(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public List<String> getItems() {
+        if (null == items) {
+            items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add("Item " + i);
+            }
+        }
+        return items;
+    }
+
+    public void loadData(boolean pullToRefresh) {
+        if (!isViewAttached()) {
+            return;
+        }
+        getView().showLoading(pullToRefresh);
+        List<String> data = getItems();
+        if (data.isEmpty()) {
+            getView().showEmpty();
+        } else {
+            getView().setData(data);
+            getView().showContent();
+        }
+    }
+}
@@ -22,4 +22,5 @@ public @interface Lcee {
     public @android.support.annotation.IdRes int contentViewId() default 0;
     public @android.support.annotation.IdRes int errorViewId() default 0;
     public @android.support.annotation.IdRes int emptyViewId() default 0;
+    public @android.support.annotation.IdRes int lceeLayoutId() default 0;
 }
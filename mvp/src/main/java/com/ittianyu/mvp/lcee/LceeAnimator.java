@@ -33,6 +33,16 @@ public class LceeAnimator{
      */
     public static void showErrorView(@NonNull final View loadingView, @NonNull final View contentView,
                                      final View errorView, final View emptyView) {
+        animateErrorView(loadingView, contentView, errorView, emptyView);
+    }
+
+    /**
+     * Same as {@link #showErrorView(View, View, View, View)}, used by {@link LceeLayout}.
+     *
+     * @return the started animator, which can be canceled by a later state change
+     */
+    static Animator animateErrorView(@NonNull final View loadingView, @NonNull final View contentView,
+                                     final View errorView, final View emptyView) {
 
         contentView.setVisibility(View.GONE);
         // add: empty view can be null
@@ -62,6 +72,7 @@ public class LceeAnimator{
         });
 
         set.start();
+        return set;
     }
 
     /**
@@ -69,6 +80,16 @@ public class LceeAnimator{
      */
     public static void showContent(@NonNull final View loadingView, @NonNull final View contentView,
                                    @NonNull final View errorView, final View emptyView) {
+        animateContent(loadingView, contentView, errorView, emptyView);
+    }
+
+    /**
+     * Same as {@link #showContent(View, View, View, View)}, used by {@link LceeLayout}.
+     *
+     * @return the started animator, or null if the content view is already visible
+     */
+    static Animator animateContent(@NonNull final View loadingView, @NonNull final View contentView,
+                                   @NonNull final View errorView, final View emptyView) {
 
         if (contentView.getVisibility() == View.VISIBLE) {
             // No Changing needed, because contentView is already visible
@@ -77,6 +98,7 @@ public class LceeAnimator{
             // add: empty view can be null
             if (null != emptyView)
                 emptyView.setVisibility(View.GONE);
+            return null;
         } else {
 
             errorView.setVisibility(View.GONE);
@@ -115,6 +137,7 @@ public class LceeAnimator{
             });
 
             set.start();
+            return set;
         }
     }
 
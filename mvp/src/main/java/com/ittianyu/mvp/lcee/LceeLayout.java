@@ -0,0 +1,485 @@
+package com.ittianyu.mvp.lcee;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.support.annotation.IdRes;
+import android.support.v4.view.GravityCompat;
+import android.support.v4.view.ViewCompat;
+import android.util.AttributeSet;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.ittianyu.mvp.R;
+
+import java.util.ArrayList;
+
+/**
+ * A ViewGroup which hosts the loading, content, error and empty views as its direct children and
+ * switches them with {@link LceeAnimator}.
+ * <p>
+ * The children are found by id, default <b>R.id.loadingView</b>, <b>R.id.contentView</b>,
+ * <b>R.id.errorView</b> and <b>R.id.emptyView</b>, which can be changed with the attributes
+ * <code>loadingViewId</code>, <code>contentViewId</code>, <code>errorViewId</code> and
+ * <code>emptyViewId</code> or {@link #setViewIds(int, int, int, int)}. The empty view is optional.
+ * <p>
+ * Once a state has been shown, only the view of that state, and the loading view while it fades out
+ * in a transition, is measured, laid out and drawn. The views of the other states are set to GONE by
+ * every state change, so the state views must be switched by the <code>showXXX</code> methods only.
+ * A state view made visible directly is skipped until its state is shown. Other children, i.e. an
+ * overlay, are always measured. Children are stacked like in a FrameLayout and
+ * positioned by <code>android:layout_gravity</code> (default center).
+ * <p>
+ * A running transition is canceled by the next state change, so a fast sequence of states always
+ * ends in the last one.
+ * <p>
+ * {@link MvpLceeActivity} and {@link MvpLceeFragment} delegate to it when the layout contains a
+ * LceeLayout with id <b>R.id.lceeLayout</b>. It can also be used alone, i.e. in RecyclerView items.
+ */
+public class LceeLayout extends ViewGroup {
+
+    public static final int STATE_NONE = 0;
+    public static final int STATE_LOADING = 1;
+    public static final int STATE_CONTENT = 2;
+    public static final int STATE_ERROR = 3;
+    public static final int STATE_EMPTY = 4;
+
+    private int loadingViewId = R.id.loadingView;
+    private int contentViewId = R.id.contentView;
+    private int errorViewId = R.id.errorView;
+    private int emptyViewId = R.id.emptyView;
+
+    private View loadingView;
+    private View contentView;
+    private View errorView;
+    private View emptyView;
+
+    private int state = STATE_NONE;
+    private Animator transition;
+    private View outgoingView;
+
+    private final ArrayList<View> matchParentChildren = new ArrayList<>(1);
+
+    public LceeLayout(Context context) {
+        this(context, null);
+    }
+
+    public LceeLayout(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public LceeLayout(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.LceeLayout, defStyleAttr, 0);
+        loadingViewId = a.getResourceId(R.styleable.LceeLayout_loadingViewId, loadingViewId);
+        contentViewId = a.getResourceId(R.styleable.LceeLayout_contentViewId, contentViewId);
+        errorViewId = a.getResourceId(R.styleable.LceeLayout_errorViewId, errorViewId);
+        emptyViewId = a.getResourceId(R.styleable.LceeLayout_emptyViewId, emptyViewId);
+        a.recycle();
+    }
+
+    /**
+     * Change the ids of the children, i.e. to the ids of the {@link Lcee} annotation.
+     * An id of 0 keeps the current one.
+     */
+    public void setViewIds(@IdRes int loadingViewId, @IdRes int contentViewId,
+                           @IdRes int errorViewId, @IdRes int emptyViewId) {
+        if (0 != loadingViewId) {
+            this.loadingViewId = loadingViewId;
+        }
+        if (0 != contentViewId) {
+            this.contentViewId = contentViewId;
+        }
+        if (0 != errorViewId) {
+            this.errorViewId = errorViewId;
+        }
+        if (0 != emptyViewId) {
+            this.emptyViewId = emptyViewId;
+        }
+        requestLayout();
+    }
+
+    /**
+     * Show the loading view.
+     */
+    public void showLoading() {
+        cancelTransition();
+        LceeAnimator.showLoading(getLoadingView(), getContentView(), getErrorView(), getEmptyView());
+        setState(STATE_LOADING);
+    }
+
+    /**
+     * Show the content view.
+     */
+    public void showContent() {
+        cancelTransition();
+        startTransition(LceeAnimator.animateContent(getLoadingView(), getContentView(), getErrorView(), getEmptyView()));
+        setState(STATE_CONTENT);
+    }
+
+    /**
+     * Show the error view.
+     */
+    public void showError() {
+        cancelTransition();
+        startTransition(LceeAnimator.animateErrorView(getLoadingView(), getContentView(), getErrorView(), getEmptyView()));
+        setState(STATE_ERROR);
+    }
+
+    /**
+     * Show the empty view. If there is no empty view, all views are hidden.
+     */
+    public void showEmpty() {
+        cancelTransition();
+        LceeAnimator.showEmpty(getLoadingView(), getContentView(), getErrorView(), getEmptyView());
+        setState(STATE_EMPTY);
+    }
+
+    /**
+     * @return the last shown state, one of STATE_XXX. STATE_NONE if nothing has been shown yet.
+     */
+    public int getState() {
+        return state;
+    }
+
+    private void setState(int state) {
+        if (this.state != state) {
+            this.state = state;
+            requestLayout();
+        }
+        hideStateViews();
+    }
+
+    /**
+     * Set the views of the other states to GONE, except the loading view while it fades out.
+     */
+    private void hideStateViews() {
+        View stateView = findChild(null, getStateViewId());
+        hideStateView(getLoadingView(), stateView);
+        hideStateView(getContentView(), stateView);
+        hideStateView(getErrorView(), stateView);
+        hideStateView(getEmptyView(), stateView);
+    }
+
+    private void hideStateView(View view, View stateView) {
+        if (null != view && view != stateView && view != outgoingView && view.getVisibility() != GONE) {
+            view.setVisibility(GONE);
+        }
+    }
+
+    /**
+     * Keep the animator started by {@link LceeAnimator}, the loading view fades out meanwhile.
+     */
+    private void startTransition(Animator animator) {
+        if (null == animator) {
+            return;
+        }
+        transition = animator;
+        outgoingView = getLoadingView();
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                if (transition == animation) {
+                    transition = null;
+                    outgoingView = null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Stop the running transition, so its end can't hide the views of the next state, and reset the
+     * properties it animated.
+     */
+    private void cancelTransition() {
+        if (null != transition) {
+            Animator running = transition;
+            transition = null;
+            running.cancel();
+        }
+        outgoingView = null;
+        resetTransform(getLoadingView());
+        resetTransform(getContentView());
+        resetTransform(getErrorView());
+        resetTransform(getEmptyView());
+    }
+
+    private static void resetTransform(View view) {
+        if (null == view) {
+            return;
+        }
+        view.setAlpha(1f);
+        view.setTranslationY(0);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        if (null != transition) {
+            Animator running = transition;
+            transition = null;
+            outgoingView = null;
+            running.end();
+        }
+        super.onDetachedFromWindow();
+    }
+
+    public View getLoadingView() {
+        loadingView = requireChild(loadingView, loadingViewId, "Loading", "R.id.loadingView");
+        return loadingView;
+    }
+
+    public View getContentView() {
+        contentView = requireChild(contentView, contentViewId, "Content", "R.id.contentView");
+        return contentView;
+    }
+
+    public View getErrorView() {
+        errorView = requireChild(errorView, errorViewId, "Error", "R.id.errorView");
+        return errorView;
+    }
+
+    /**
+     * @return the empty view, or null if there is no empty view
+     */
+    public View getEmptyView() {
+        emptyView = findChild(emptyView, emptyViewId);
+        return emptyView;
+    }
+
+    private View requireChild(View cached, @IdRes int id, String name, String defaultId) {
+        View child = findChild(cached, id);
+        if (null == child) {
+            throw new NullPointerException(
+                    name + " view is null! Have you added it to LceeLayout?"
+                            + " You have to give it the id " + defaultId + " or set it by the attribute of LceeLayout");
+        }
+        return child;
+    }
+
+    /**
+     * Find a direct child by id. The cached view is reused while it is still a child.
+     */
+    private View findChild(View cached, @IdRes int id) {
+        if (null != cached && cached.getParent() == this && cached.getId() == id) {
+            return cached;
+        }
+        for (int i = 0, count = getChildCount(); i < count; i++) {
+            View child = getChildAt(i);
+            if (child.getId() == id) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
+        // a state view made visible directly has no valid bounds, see isLaidOut
+        return isLaidOut(child) && super.drawChild(canvas, child, drawingTime);
+    }
+
+    /**
+     * @return true if the child is measured, laid out and drawn in the current state
+     */
+    private boolean isLaidOut(View child) {
+        if (child.getVisibility() == GONE) {
+            return false;
+        }
+        if (STATE_NONE == state) {
+            return true;
+        }
+        int id = child.getId();
+        if (id != loadingViewId && id != contentViewId && id != errorViewId && id != emptyViewId) {
+            // not a state view
+            return true;
+        }
+        return id == getStateViewId() || child == outgoingView;
+    }
+
+    private int getStateViewId() {
+        switch (state) {
+            case STATE_LOADING:
+                return loadingViewId;
+            case STATE_CONTENT:
+                return contentViewId;
+            case STATE_ERROR:
+                return errorViewId;
+            case STATE_EMPTY:
+                return emptyViewId;
+            default:
+                return NO_ID;
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // like FrameLayout, match_parent children are measured again with the final size
+        final boolean measureMatchParentChildren =
+                MeasureSpec.getMode(widthMeasureSpec) != MeasureSpec.EXACTLY
+                        || MeasureSpec.getMode(heightMeasureSpec) != MeasureSpec.EXACTLY;
+        matchParentChildren.clear();
+
+        int maxWidth = 0;
+        int maxHeight = 0;
+        int childState = 0;
+
+        for (int i = 0, count = getChildCount(); i < count; i++) {
+            View child = getChildAt(i);
+            if (!isLaidOut(child)) {
+                continue;
+            }
+            measureChildWithMargins(child, widthMeasureSpec, 0, heightMeasureSpec, 0);
+            LayoutParams lp = (LayoutParams) child.getLayoutParams();
+            maxWidth = Math.max(maxWidth, child.getMeasuredWidth() + lp.leftMargin + lp.rightMargin);
+            maxHeight = Math.max(maxHeight, child.getMeasuredHeight() + lp.topMargin + lp.bottomMargin);
+            childState = combineMeasuredStates(childState, child.getMeasuredState());
+            if (measureMatchParentChildren
+                    && (lp.width == LayoutParams.MATCH_PARENT || lp.height == LayoutParams.MATCH_PARENT)) {
+                matchParentChildren.add(child);
+            }
+        }
+
+        maxWidth = Math.max(maxWidth + getPaddingLeft() + getPaddingRight(), getSuggestedMinimumWidth());
+        maxHeight = Math.max(maxHeight + getPaddingTop() + getPaddingBottom(), getSuggestedMinimumHeight());
+
+        setMeasuredDimension(resolveSizeAndState(maxWidth, widthMeasureSpec, childState),
+                resolveSizeAndState(maxHeight, heightMeasureSpec, childState << MEASURED_HEIGHT_STATE_SHIFT));
+
+        if (matchParentChildren.size() > 1) {
+            for (View child : matchParentChildren) {
+                LayoutParams lp = (LayoutParams) child.getLayoutParams();
+                int horizontal = getPaddingLeft() + getPaddingRight() + lp.leftMargin + lp.rightMargin;
+                int vertical = getPaddingTop() + getPaddingBottom() + lp.topMargin + lp.bottomMargin;
+
+                int childWidthMeasureSpec = lp.width == LayoutParams.MATCH_PARENT
+                        ? MeasureSpec.makeMeasureSpec(Math.max(0, getMeasuredWidth() - horizontal), MeasureSpec.EXACTLY)
+                        : getChildMeasureSpec(widthMeasureSpec, horizontal, lp.width);
+                int childHeightMeasureSpec = lp.height == LayoutParams.MATCH_PARENT
+                        ? MeasureSpec.makeMeasureSpec(Math.max(0, getMeasuredHeight() - vertical), MeasureSpec.EXACTLY)
+                        : getChildMeasureSpec(heightMeasureSpec, vertical, lp.height);
+                child.measure(childWidthMeasureSpec, childHeightMeasureSpec);
+            }
+        }
+        matchParentChildren.clear();
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        int parentLeft = getPaddingLeft();
+        int parentTop = getPaddingTop();
+        int parentRight = r - l - getPaddingRight();
+        int parentBottom = b - t - getPaddingBottom();
+        int layoutDirection = ViewCompat.getLayoutDirection(this);
+
+        for (int i = 0, count = getChildCount(); i < count; i++) {
+            View child = getChildAt(i);
+            if (!isLaidOut(child)) {
+                continue;
+            }
+            LayoutParams lp = (LayoutParams) child.getLayoutParams();
+            int width = child.getMeasuredWidth();
+            int height = child.getMeasuredHeight();
+            int gravity = GravityCompat.getAbsoluteGravity(lp.gravity, layoutDirection);
+
+            int left;
+            switch (gravity & Gravity.HORIZONTAL_GRAVITY_MASK) {
+                case Gravity.CENTER_HORIZONTAL:
+                    left = parentLeft + (parentRight - parentLeft - width) / 2 + lp.leftMargin - lp.rightMargin;
+                    break;
+                case Gravity.RIGHT:
+                    left = parentRight - width - lp.rightMargin;
+                    break;
+                default:
+                    left = parentLeft + lp.leftMargin;
+                    break;
+            }
+
+            int top;
+            switch (gravity & Gravity.VERTICAL_GRAVITY_MASK) {
+                case Gravity.CENTER_VERTICAL:
+                    top = parentTop + (parentBottom - parentTop - height) / 2 + lp.topMargin - lp.bottomMargin;
+                    break;
+                case Gravity.BOTTOM:
+                    top = parentBottom - height - lp.bottomMargin;
+                    break;
+                default:
+                    top = parentTop + lp.topMargin;
+                    break;
+            }
+
+            child.layout(left, top, left + width, top + height);
+        }
+    }
+
+    @Override
+    public boolean shouldDelayChildPressedState() {
+        return false;
+    }
+
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof LayoutParams;
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT);
+    }
+
+    @Override
+    public LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new LayoutParams(getContext(), attrs);
+    }
+
+    @Override
+    protected LayoutParams generateLayoutParams(ViewGroup.LayoutParams p) {
+        if (p instanceof LayoutParams) {
+            return new LayoutParams((LayoutParams) p);
+        }
+        if (p instanceof MarginLayoutParams) {
+            return new LayoutParams((MarginLayoutParams) p);
+        }
+        return new LayoutParams(p);
+    }
+
+    /**
+     * Margins and <code>android:layout_gravity</code> of the children. The default gravity is center.
+     */
+    public static class LayoutParams extends MarginLayoutParams {
+
+        public int gravity = Gravity.CENTER;
+
+        public LayoutParams(Context c, AttributeSet attrs) {
+            super(c, attrs);
+            TypedArray a = c.obtainStyledAttributes(attrs, R.styleable.LceeLayout_Layout);
+            gravity = a.getInt(R.styleable.LceeLayout_Layout_android_layout_gravity, Gravity.CENTER);
+            a.recycle();
+        }
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+
+        public LayoutParams(int width, int height, int gravity) {
+            super(width, height);
+            this.gravity = gravity;
+        }
+
+        public LayoutParams(LayoutParams source) {
+            super(source);
+            this.gravity = source.gravity;
+        }
+
+        public LayoutParams(MarginLayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(ViewGroup.LayoutParams source) {
+            super(source);
+        }
+    }
+}
@@ -36,6 +36,8 @@ import com.ittianyu.mvp.R;
  * inflated
  * xml layout</li>
  * </ul>
+ * If the layout contains a {@link LceeLayout} with id <b>R.id.lceeLayout</b>, the views are taken
+ * from it and the LceeLayout switches them. The view ids of {@link Lcee} are passed to it.
  *
  * @param <CV> The type of the content view with the id = R.id.contentView. Can be any kind of
  *             android view widget like ListView, RecyclerView, ScrollView or a simple layout like Framelayout
@@ -55,6 +57,7 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
     protected CV contentView;
     protected View errorView;
     protected View emptyView;
+    protected LceeLayout lceeLayout;
 
 
     @CallSuper
@@ -78,6 +81,22 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
             throw new NullPointerException("cannot found Lcee Annotation!");
         }
 
+        if (0 == lcee.lceeLayoutId()) {
+            lceeLayout = (LceeLayout) findViewById(R.id.lceeLayout);
+        } else {
+            lceeLayout = (LceeLayout) findViewById(lcee.lceeLayoutId());
+        }
+        if (null != lceeLayout) {
+            // custom ids of the annotation are the ids of the LceeLayout children
+            lceeLayout.setViewIds(lcee.loadingViewId(), lcee.contentViewId(), lcee.errorViewId(),
+                    lcee.emptyViewId());
+            loadingView = lceeLayout.getLoadingView();
+            contentView = (CV) lceeLayout.getContentView();
+            errorView = lceeLayout.getErrorView();
+            emptyView = lceeLayout.getEmptyView();
+            return;
+        }
+
         if (0 == lcee.loadingViewId()) {
             loadingView = findViewById(R.id.loadingView);
         } else {
@@ -146,7 +165,11 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
      * Override this method if you want to provide your own animation for showing the loading view
      */
     protected void animateLoadingViewIn() {
-        LceeAnimator.showLoading(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showLoading();
+        } else {
+            LceeAnimator.showLoading(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     @Override
@@ -158,7 +181,11 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
      * Called to animate from loading view to content view
      */
     protected void animateContentViewIn() {
-        LceeAnimator.showContent(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showContent();
+        } else {
+            LceeAnimator.showContent(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     /**
@@ -201,7 +228,11 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
      * Animates the error view in (instead of displaying content view / loading view)
      */
     protected void animateErrorViewIn() {
-        LceeAnimator.showErrorView(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showError();
+        } else {
+            LceeAnimator.showErrorView(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     /**
@@ -209,6 +240,10 @@ public abstract class MvpLceeActivity<CV extends View, M, V extends MvpLceeView<
      */
     @Override
     public void showEmpty() {
-        LceeAnimator.showEmpty(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showEmpty();
+        } else {
+            LceeAnimator.showEmpty(loadingView, contentView, errorView, emptyView);
+        }
     }
 }
@@ -38,6 +38,8 @@ import com.ittianyu.mvp.R;
  * inflated
  * xml layout</li>
  * </ul>
+ * If the layout contains a {@link LceeLayout} with id <b>R.id.lceeLayout</b>, the views are taken
+ * from it and the LceeLayout switches them. The view ids of {@link Lcee} are passed to it.
  *
  * @param <CV> The type of the content view with the id = R.id.contentView. Can be any kind of
  *             android view widget like ListView, RecyclerView, ScrollView or a simple layout like Framelayout
@@ -59,6 +61,7 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
     protected CV contentView;
     protected View errorView;
     protected View emptyView;
+    protected LceeLayout lceeLayout;
 
     @CallSuper
     @Override
@@ -89,6 +92,22 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
             throw new NullPointerException("cannot found Lcee Annotation!");
         }
 
+        if (0 == lcee.lceeLayoutId()) {
+            lceeLayout = (LceeLayout) view.findViewById(R.id.lceeLayout);
+        } else {
+            lceeLayout = (LceeLayout) view.findViewById(lcee.lceeLayoutId());
+        }
+        if (null != lceeLayout) {
+            // custom ids of the annotation are the ids of the LceeLayout children
+            lceeLayout.setViewIds(lcee.loadingViewId(), lcee.contentViewId(), lcee.errorViewId(),
+                    lcee.emptyViewId());
+            loadingView = lceeLayout.getLoadingView();
+            contentView = (CV) lceeLayout.getContentView();
+            errorView = lceeLayout.getErrorView();
+            emptyView = lceeLayout.getEmptyView();
+            return;
+        }
+
         if (0 == lcee.loadingViewId()) {
             loadingView = view.findViewById(R.id.loadingView);
         } else {
@@ -149,7 +168,11 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
      * Override this method if you want to provide your own animation for showing the loading view
      */
     protected void animateLoadingViewIn() {
-        LceeAnimator.showLoading(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showLoading();
+        } else {
+            LceeAnimator.showLoading(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     @Override
@@ -161,7 +184,11 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
      * Called to animate from loading view to content view
      */
     protected void animateContentViewIn() {
-        LceeAnimator.showContent(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showContent();
+        } else {
+            LceeAnimator.showContent(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     /**
@@ -215,7 +242,11 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
      * Animates the error view in (instead of displaying content view / loading view)
      */
     protected void animateErrorViewIn() {
-        LceeAnimator.showErrorView(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showError();
+        } else {
+            LceeAnimator.showErrorView(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     /**
@@ -223,7 +254,11 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
      */
     @Override
     public void showEmpty() {
-        LceeAnimator.showEmpty(loadingView, contentView, errorView, emptyView);
+        if (null != lceeLayout) {
+            lceeLayout.showEmpty();
+        } else {
+            LceeAnimator.showEmpty(loadingView, contentView, errorView, emptyView);
+        }
     }
 
     @Override
@@ -233,5 +268,6 @@ public abstract class MvpLceeFragment<CV extends View, M, V extends MvpLceeView<
         contentView = null;
         errorView = null;
         emptyView = null;
+        lceeLayout = null;
     }
 }
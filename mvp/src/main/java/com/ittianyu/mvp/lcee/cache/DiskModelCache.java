@@ -0,0 +1,534 @@
+package com.ittianyu.mvp.lcee.cache;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.regex.Pattern;
+
+/**
+ * A size bounded disk cache for LCEE models, so a cold started screen can show the last known
+ * content immediately and refresh it afterwards.
+ * <p>
+ * Every entry is one file: a 12 bytes header (magic, version, payload length) followed by the
+ * payload written by the {@link ModelSerializer}. Reads map the file with a {@link FileChannel},
+ * writes are serialized on the caller thread and flushed to disk on the write {@link Executor}.
+ * The index of entries is loaded on the write executor too, so the first {@link #get(String)}
+ * never scans the directory. When the total size is over the limit, the least recently used
+ * entries are deleted.
+ * <p>
+ * Use one instance per directory, i.e. a singleton shared by the presenters with different keys.
+ * Two instances on the same directory keep separate indexes and evict or clear the files of each
+ * other.
+ *
+ * @param <M> The underlying data model
+ */
+public class DiskModelCache<M> {
+
+    private static final int MAGIC = 0x4C434545; // "LCEE"
+    private static final int HEADER_SIZE = 12;
+    private static final String SUFFIX = ".lcee";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[a-zA-Z0-9_\\-]{1,120}");
+
+    /**
+     * Marks a removed entry whose file has not been deleted yet.
+     */
+    private static final byte[] REMOVED = new byte[0];
+
+    /**
+     * The write executor of all the caches created without one, so no cache leaks a thread.
+     */
+    private static Executor defaultWriteExecutor;
+
+    private final File directory;
+    private final long maxSize;
+    private final int version;
+    private final ModelSerializer<M> serializer;
+    private final Executor writeExecutor;
+
+    /**
+     * Serialized models which are not on disk yet. Read before the disk, so a get after a put
+     * always returns the new model.
+     */
+    private final ConcurrentMap<String, byte[]> pendingWrites = new ConcurrentHashMap<>();
+
+    // guarded by this, null until loaded
+    private LinkedHashMap<String, Long> entries;
+    private long size;
+    private int generation;
+
+    /**
+     * Create a cache which writes on the background thread shared by all such caches.
+     *
+     * @param directory  the directory to store the entries. It should not be shared with other files.
+     * @param maxSize    the max size in bytes of all the entries
+     * @param version    the version of the serialized format. Entries of other versions are ignored,
+     *                   so increase it whenever the {@link ModelSerializer} changes.
+     * @param serializer converts the model to bytes
+     */
+    public DiskModelCache(@NonNull File directory, long maxSize, int version,
+                          @NonNull ModelSerializer<M> serializer) {
+        this(directory, maxSize, version, serializer, getDefaultWriteExecutor());
+    }
+
+    private static synchronized Executor getDefaultWriteExecutor() {
+        if (null == defaultWriteExecutor) {
+            defaultWriteExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable r) {
+                    Thread thread = new Thread(r, "DiskModelCache");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }
+            });
+        }
+        return defaultWriteExecutor;
+    }
+
+    /**
+     * @param writeExecutor executes the disk writes. It must run the tasks one by one in order.
+     * @see #DiskModelCache(File, long, int, ModelSerializer)
+     */
+    public DiskModelCache(@NonNull File directory, long maxSize, int version,
+                          @NonNull ModelSerializer<M> serializer, @NonNull Executor writeExecutor) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.version = version;
+        this.serializer = serializer;
+        this.writeExecutor = writeExecutor;
+
+        // temp files left by a killed process. Deleted on the write executor, so it never races a write.
+        // The index is loaded there too, and trimmed in case maxSize is smaller than last time.
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                deleteTmpFiles();
+                LinkedHashMap<String, Long> loaded = loadEntries();
+                List<String> evicted;
+                synchronized (DiskModelCache.this) {
+                    if (null == entries) {
+                        setEntries(loaded);
+                    }
+                    evicted = trimToSize();
+                }
+                deleteFiles(evicted);
+            }
+        });
+    }
+
+    /**
+     * Get the cached model.
+     *
+     * @return the model, or null if it is not cached or cannot be read
+     */
+    @Nullable
+    public M get(@NonNull String key) {
+        checkKey(key);
+
+        byte[] pending = pendingWrites.get(key);
+        if (REMOVED == pending) {
+            return null;
+        }
+        if (null != pending) {
+            try {
+                return serializer.read(new DataInputStream(new ByteBufferInputStream(ByteBuffer.wrap(pending))));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        File file = getFile(key);
+        synchronized (this) {
+            if (null != entries) {
+                if (null == entries.get(key)) { // also moves the entry to the tail of lru list
+                    return null;
+                }
+            } else if (!file.isFile()) {
+                // index is not loaded yet, don't wait for the directory scan
+                return null;
+            }
+        }
+
+        M model = readFile(file);
+        if (null == model) {
+            // broken or from another version, it will never be read. Don't override a new put.
+            if (null == pendingWrites.putIfAbsent(key, REMOVED)) {
+                scheduleRemove(key);
+            }
+        } else {
+            touch(file);
+        }
+        return model;
+    }
+
+    /**
+     * Put the model into cache. The model is serialized immediately, so it can be changed after
+     * this call returns, and is written to disk in background.
+     */
+    public void put(@NonNull final String key, @NonNull M model) {
+        checkKey(key);
+
+        final byte[] payload;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            serializer.write(model, new DataOutputStream(bytes));
+            payload = bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("cannot serialize the model of " + key, e);
+        }
+
+        pendingWrites.put(key, payload);
+        final int writeGeneration = getGeneration();
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                writeFile(key, payload, writeGeneration);
+                pendingWrites.remove(key, payload);
+            }
+        });
+    }
+
+    /**
+     * Remove the cached model.
+     */
+    public void remove(@NonNull final String key) {
+        checkKey(key);
+
+        pendingWrites.put(key, REMOVED);
+        scheduleRemove(key);
+    }
+
+    /**
+     * Keep the lru order after restarting. Written on the write executor, not on the caller thread.
+     */
+    private void touch(final File file) {
+        final long now = System.currentTimeMillis();
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                file.setLastModified(now);
+            }
+        });
+    }
+
+    private void scheduleRemove(final String key) {
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (DiskModelCache.this) {
+                    initEntries();
+                    removeEntry(key);
+                }
+                pendingWrites.remove(key, REMOVED);
+            }
+        });
+    }
+
+    /**
+     * Remove all the cached models. The writes which are not finished yet are dropped. The files
+     * are deleted on the write executor.
+     */
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            pendingWrites.clear();
+            setEntries(new LinkedHashMap<String, Long>());
+        }
+        writeExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                File[] files = directory.listFiles();
+                if (null == files) {
+                    return;
+                }
+                for (File file : files) {
+                    if (file.getName().endsWith(SUFFIX) || file.getName().endsWith(TMP_SUFFIX)) {
+                        file.delete();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the size in bytes of all the entries on disk
+     */
+    public synchronized long size() {
+        initEntries();
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    private synchronized int getGeneration() {
+        return generation;
+    }
+
+    private void checkKey(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("key must match " + KEY_PATTERN.pattern() + ": " + key);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + SUFFIX);
+    }
+
+    /**
+     * Load the index synchronously if the write executor hasn't loaded it yet.
+     */
+    private void initEntries() {
+        if (null == entries) {
+            setEntries(loadEntries());
+        }
+    }
+
+    private void setEntries(LinkedHashMap<String, Long> loaded) {
+        entries = new LinkedHashMap<>(Math.max(16, loaded.size() * 2), 0.75f, true);
+        entries.putAll(loaded);
+        size = 0;
+        for (Long length : loaded.values()) {
+            size += length;
+        }
+    }
+
+    /**
+     * Scan the directory, ordered by last modified time. Doesn't need the lock.
+     */
+    private LinkedHashMap<String, Long> loadEntries() {
+        LinkedHashMap<String, Long> loaded = new LinkedHashMap<>();
+        File[] files = directory.listFiles();
+        if (null == files) {
+            return loaded;
+        }
+        final long[] lastModified = new long[files.length];
+        Integer[] order = new Integer[files.length];
+        for (int i = 0; i < files.length; i++) {
+            lastModified[i] = files[i].lastModified();
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                long diff = lastModified[a] - lastModified[b];
+                return diff < 0 ? -1 : (diff == 0 ? 0 : 1);
+            }
+        });
+        for (Integer i : order) {
+            File file = files[i];
+            String name = file.getName();
+            if (name.endsWith(SUFFIX)) {
+                loaded.put(name.substring(0, name.length() - SUFFIX.length()), file.length());
+            }
+        }
+        return loaded;
+    }
+
+    private void deleteTmpFiles() {
+        File[] files = directory.listFiles();
+        if (null == files) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().endsWith(TMP_SUFFIX)) {
+                file.delete();
+            }
+        }
+    }
+
+    private void removeEntry(String key) {
+        Long length = entries.remove(key);
+        if (null != length) {
+            size -= length;
+        }
+        getFile(key).delete();
+    }
+
+    /**
+     * Remove the least recently used entries from the index until it fits.
+     *
+     * @return the keys whose files should be deleted, out of the lock
+     */
+    private List<String> trimToSize() {
+        if (size <= maxSize) {
+            return Collections.emptyList();
+        }
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getValue();
+            evicted.add(eldest.getKey());
+        }
+        return evicted;
+    }
+
+    /**
+     * Called on the write executor, so the files can't be written again meanwhile.
+     */
+    private void deleteFiles(List<String> keys) {
+        for (String key : keys) {
+            getFile(key).delete();
+        }
+    }
+
+    /**
+     * Called on the write executor.
+     *
+     * @param writeGeneration the generation when the model was put. The write is dropped if
+     *                        {@link #clear()} is called before the rename.
+     */
+    private void writeFile(String key, byte[] payload, int writeGeneration) {
+
+        long length = HEADER_SIZE + payload.length;
+        if (length > maxSize) {
+            // never fits, and must not evict everything else
+            synchronized (this) {
+                initEntries();
+                removeEntry(key);
+            }
+            return;
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+
+        File tmp = new File(directory, key + TMP_SUFFIX);
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(tmp);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            buffer.putInt(MAGIC).putInt(version).putInt(payload.length).flip();
+            FileChannel channel = out.getChannel();
+            channel.write(new ByteBuffer[]{buffer, ByteBuffer.wrap(payload)});
+        } catch (IOException e) {
+            // it is only a cache, the next put will try again
+            closeQuietly(out);
+            tmp.delete();
+            return;
+        }
+        closeQuietly(out);
+
+        List<String> evicted;
+        synchronized (this) {
+            if (writeGeneration != generation) {
+                // cleared while writing
+                tmp.delete();
+                return;
+            }
+            initEntries();
+            File file = getFile(key);
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                removeEntry(key);
+                return;
+            }
+            Long old = entries.put(key, length);
+            if (null != old) {
+                size -= old;
+            }
+            size += length;
+            evicted = trimToSize();
+        }
+        deleteFiles(evicted);
+    }
+
+    private M readFile(File file) {
+        RandomAccessFile in = null;
+        try {
+            in = new RandomAccessFile(file, "r");
+            FileChannel channel = in.getChannel();
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > maxSize) {
+                return null;
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != version
+                    || buffer.getInt() != buffer.remaining()) {
+                return null;
+            }
+            return serializer.read(new DataInputStream(new ByteBufferInputStream(buffer)));
+        } catch (IOException | RuntimeException e) {
+            // deleted meanwhile, or written by a serializer which is not compatible
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Read a {@link ByteBuffer} without copying it to another array.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NonNull byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
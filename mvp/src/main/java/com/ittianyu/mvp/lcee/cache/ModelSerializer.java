@@ -0,0 +1,25 @@
+package com.ittianyu.mvp.lcee.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converts a model to and from the compact binary form stored by {@link DiskModelCache}.
+ * Write only the fields you need to render the content view, in a fixed order, and read them back
+ * in the same order.
+ *
+ * @param <M> The underlying data model
+ */
+public interface ModelSerializer<M> {
+
+    /**
+     * Write the model. Called on the caller thread of {@link DiskModelCache#put(String, Object)}.
+     */
+    void write(M model, DataOutput out) throws IOException;
+
+    /**
+     * Read a model previously written by {@link #write(Object, DataOutput)}.
+     */
+    M read(DataInput in) throws IOException;
+}
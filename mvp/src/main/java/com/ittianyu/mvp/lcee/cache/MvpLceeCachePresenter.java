@@ -0,0 +1,76 @@
+package com.ittianyu.mvp.lcee.cache;
+
+import android.support.annotation.NonNull;
+
+import com.hannesdorfmann.mosby.mvp.MvpBasePresenter;
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+/**
+ * A presenter which shows the model cached by {@link DiskModelCache} at the first load, and then
+ * refreshes it like a pull to refresh, so the loading view is skipped on cold start.
+ * <p>
+ * Call {@link #loadData(boolean)} from the view, load the model in {@link #onLoadData(boolean)}
+ * and deliver it with {@link #onDataLoaded(Object)}.
+ *
+ * @param <V> The type of the view
+ * @param <M> The underlying data model that will be displayed with the view
+ */
+public abstract class MvpLceeCachePresenter<V extends MvpLceeView<M>, M> extends MvpBasePresenter<V> {
+
+    private final DiskModelCache<M> cache;
+    private final String cacheKey;
+
+    /**
+     * @param cache    the cache of models. Use one instance per directory and share it by the
+     *                 presenters with different keys.
+     * @param cacheKey the key of the model shown by this presenter
+     */
+    public MvpLceeCachePresenter(@NonNull DiskModelCache<M> cache, @NonNull String cacheKey) {
+        this.cache = cache;
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * Load the model. If it isn't a pull to refresh and a cached model exists, the cached model is
+     * shown immediately and {@link #onLoadData(boolean)} is called with pullToRefresh = true.
+     */
+    public void loadData(boolean pullToRefresh) {
+        if (!pullToRefresh && isViewAttached()) {
+            M cached = cache.get(cacheKey);
+            if (null != cached) {
+                getView().setData(cached);
+                getView().showContent();
+                pullToRefresh = true;
+            }
+        }
+        onLoadData(pullToRefresh);
+    }
+
+    /**
+     * Load the model from the source, i.e. network. Call <code>getView().showLoading(pullToRefresh)</code>
+     * before loading, {@link #onDataLoaded(Object)} on success and
+     * <code>getView().showError(e, pullToRefresh)</code> on failure.
+     *
+     * @param pullToRefresh true if content is shown already, so only a light error should be shown
+     */
+    protected abstract void onLoadData(boolean pullToRefresh);
+
+    /**
+     * Cache the model and show it. Must be called on the main thread.
+     */
+    protected void onDataLoaded(@NonNull M model) {
+        cache.put(cacheKey, model);
+        if (isViewAttached()) {
+            getView().setData(model);
+            getView().showContent();
+        }
+    }
+
+    protected DiskModelCache<M> getCache() {
+        return cache;
+    }
+
+    protected String getCacheKey() {
+        return cacheKey;
+    }
+}
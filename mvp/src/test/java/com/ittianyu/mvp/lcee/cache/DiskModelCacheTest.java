@@ -0,0 +1,177 @@
+package com.ittianyu.mvp.lcee.cache;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit test of {@link DiskModelCache}, writes are executed directly in the test thread.
+ */
+public class DiskModelCacheTest {
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private static final ModelSerializer<String> STRING = new ModelSerializer<String>() {
+        @Override
+        public void write(String model, DataOutput out) throws IOException {
+            out.writeUTF(model);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = folder.newFolder("cache");
+    }
+
+    @Test
+    public void put_isReadAfterRestart() throws Exception {
+        new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT).put("news", "hello");
+
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT);
+        assertEquals("hello", cache.get("news"));
+        assertNull(cache.get("other"));
+        assertEquals(12 + 2 + 5, cache.size());
+    }
+
+    @Test
+    public void put_isReadBeforeWritten() throws Exception {
+        final List<Runnable> writes = new ArrayList<>();
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 1, STRING, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                writes.add(command);
+            }
+        });
+
+        cache.put("news", "hello");
+        assertEquals("hello", cache.get("news"));
+        assertEquals(0, cache.size());
+
+        cache.remove("news");
+        assertNull(cache.get("news"));
+
+        for (Runnable write : writes) {
+            write.run();
+        }
+        assertNull(cache.get("news"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsed() throws Exception {
+        // every entry is 12 + 2 + 5 = 19 bytes
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 40, 1, STRING, DIRECT);
+        cache.put("a", "aaaaa");
+        cache.put("b", "bbbbb");
+        assertEquals("aaaaa", cache.get("a"));
+        cache.put("c", "ccccc");
+
+        assertEquals("aaaaa", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("ccccc", cache.get("c"));
+        assertEquals(38, cache.size());
+    }
+
+    @Test
+    public void put_dropsEntryLargerThanMaxSize() throws Exception {
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 16, 1, STRING, DIRECT);
+        cache.put("a", "aaaaa");
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_ignoresOtherVersionAndBrokenFile() throws Exception {
+        new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT).put("news", "hello");
+        FileOutputStream out = new FileOutputStream(new File(directory, "broken.lcee"));
+        out.write(new byte[]{1, 2, 3});
+        out.close();
+
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 2, STRING, DIRECT);
+        assertNull(cache.get("news"));
+        assertNull(cache.get("broken"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void open_trimsToSmallerMaxSize() throws Exception {
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT);
+        cache.put("a", "aaaaa");
+        cache.put("b", "bbbbb");
+        cache.put("c", "ccccc");
+        assertEquals(57, cache.size());
+
+        cache = new DiskModelCache<>(directory, 40, 1, STRING, DIRECT);
+        assertEquals(38, cache.size());
+        assertEquals(2, directory.listFiles().length);
+    }
+
+    @Test
+    public void clear_dropsWriteBeforeRename() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 1, STRING, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+        cache.put("a", "aaaaa");
+        // the write task is held, so clear() runs after the put and before the rename
+        cache.clear();
+
+        // index loading and the write, but not the deletion of clear()
+        assertEquals(3, tasks.size());
+        tasks.get(0).run();
+        tasks.get(1).run();
+
+        assertEquals(0, directory.listFiles().length);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void clear_removesAll() throws Exception {
+        DiskModelCache<String> cache = new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT);
+        cache.put("a", "aaaaa");
+        cache.put("b", "bbbbb");
+        cache.clear();
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.size());
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void put_rejectsInvalidKey() throws Exception {
+        new DiskModelCache<>(directory, 1024, 1, STRING, DIRECT).put("../news", "hello");
+    }
+}
@@ -0,0 +1,133 @@
+package com.ittianyu.mvp.lcee.cache;
+
+import com.ittianyu.mvp.lcee.MvpLceeView;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit test of {@link MvpLceeCachePresenter} with a fake view which records the calls.
+ */
+public class MvpLceeCachePresenterTest {
+
+    private static final String KEY = "news";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> calls = new ArrayList<>();
+    private DiskModelCache<String> cache;
+    private TestPresenter presenter;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new DiskModelCache<>(folder.newFolder("cache"), 1024, 1, new ModelSerializer<String>() {
+            @Override
+            public void write(String model, DataOutput out) throws IOException {
+                out.writeUTF(model);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        }, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        presenter = new TestPresenter(cache);
+        presenter.attachView(new RecordingView());
+    }
+
+    @Test
+    public void loadData_showsCachedModelAndRefreshes() throws Exception {
+        cache.put(KEY, "cached");
+
+        presenter.loadData(false);
+
+        assertEquals(Arrays.asList("setData(cached)", "showContent()", "onLoadData(true)"), calls);
+    }
+
+    @Test
+    public void loadData_loadsWhenNotCached() throws Exception {
+        presenter.loadData(false);
+
+        assertEquals(Arrays.asList("onLoadData(false)"), calls);
+    }
+
+    @Test
+    public void loadData_pullToRefreshSkipsCache() throws Exception {
+        cache.put(KEY, "cached");
+
+        presenter.loadData(true);
+
+        assertEquals(Arrays.asList("onLoadData(true)"), calls);
+    }
+
+    @Test
+    public void onDataLoaded_cachesAndShowsModel() throws Exception {
+        presenter.onDataLoaded("loaded");
+
+        assertEquals(Arrays.asList("setData(loaded)", "showContent()"), calls);
+        assertEquals("loaded", cache.get(KEY));
+    }
+
+    private class TestPresenter extends MvpLceeCachePresenter<MvpLceeView<String>, String> {
+
+        TestPresenter(DiskModelCache<String> cache) {
+            super(cache, KEY);
+        }
+
+        @Override
+        protected void onLoadData(boolean pullToRefresh) {
+            calls.add("onLoadData(" + pullToRefresh + ")");
+        }
+    }
+
+    private class RecordingView implements MvpLceeView<String> {
+
+        @Override
+        public void showEmpty() {
+            calls.add("showEmpty()");
+        }
+
+        @Override
+        public void showLoading(boolean pullToRefresh) {
+            calls.add("showLoading(" + pullToRefresh + ")");
+        }
+
+        @Override
+        public void showContent() {
+            calls.add("showContent()");
+        }
+
+        @Override
+        public void showError(Throwable e, boolean pullToRefresh) {
+            calls.add("showError(" + pullToRefresh + ")");
+        }
+
+        @Override
+        public void setData(String data) {
+            calls.add("setData(" + data + ")");
+        }
+
+        @Override
+        public void loadData(boolean pullToRefresh) {
+            calls.add("loadData(" + pullToRefresh + ")");
+        }
+    }
+}